@@ -0,0 +1,226 @@
+package com.wbillingsley.tutorials.classdiags;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Random;
+
+import com.wbillingsley.tutorials.classdiags.village.Village;
+
+/**
+ * A sampled census, for looking for Number One without everyone asking everyone else their number.
+ *
+ * A chosen number of observers each ask a random sample of the village for their number, writing it down in their
+ * notepads as usual. We then compare the notepads. An honest villager only seems to contradict themselves when someone
+ * wrote them down wrongly, but Number One keeps changing identity. So the villager who contradicts themselves most
+ * often is our suspect -- if they stand out clearly from everyone else we observed.
+ *
+ * Asking fewer people is quicker, but makes it harder to be sure -- so the result says how sure we can be. For the
+ * result to be conclusive, every villager has to be asked about often enough that we can rule them out, which takes
+ * something like 75 to 100 questions per villager (observers x sample size of 75 to 100 x village size). In a
+ * village of 300 (half of them Wardens), 150 observers asking 150 villagers each find Number One conclusively about
+ * nine times in ten. Asking much less than that -- 30 x 30 in a village of 300, or 20 x 20 in a village of 1000 --
+ * almost never names Number One as the suspect, and is never conclusive.
+ */
+public class Census {
+
+	/**
+	 * The z-score for 95% confidence, to pass to run
+	 */
+	public static final double Z_95 = 1.96;
+
+	/**
+	 * The number the observers are told to look for. Number Six never answers, so nobody's search ends early.
+	 */
+	private static final int LOOKING_FOR = 6;
+
+	/**
+	 * The village being counted
+	 */
+	private Village village;
+
+	/**
+	 * Used for choosing observers and samples
+	 */
+	private Random random;
+
+	/**
+	 * A census of the default village, using its Random -- so seeding the default village makes the census
+	 * repeatable too
+	 */
+	public Census() {
+		this(Village.INSTANCE);
+	}
+
+	public Census(Random random) {
+		this(Village.INSTANCE, random);
+	}
+
+	/**
+	 * A census of the given village, using the village's own Random to choose observers and samples
+	 */
+	public Census(Village village) {
+		this(village, village.getRandom());
+	}
+
+	public Census(Village village, Random random) {
+		this.village = village;
+		this.random = random;
+	}
+
+	/**
+	 * Runs the census.
+	 *
+	 * Everything already in the observers' notepads counts as evidence too, so observers who have been asking around
+	 * already will make the result more certain.
+	 *
+	 * @param observers how many villagers to ask to take part
+	 * @param sampleSize how many villagers each observer asks
+	 * @param z the z-score of the confidence level for the bounds (e.g. Z_95)
+	 * @return the result; if nobody was observed (e.g. the village is empty), the suspect is null and all the bounds
+	 *         are 0
+	 */
+	public CensusResult run(int observers, int sampleSize, double z) {
+		if (observers < 0) {
+			throw new IllegalArgumentException("A census can't have a negative number of observers");
+		}
+		if (sampleSize < 0) {
+			throw new IllegalArgumentException("Observers can't ask a negative number of villagers");
+		}
+		if (!(z > 0)) {
+			throw new IllegalArgumentException("The z-score for the confidence level must be greater than zero");
+		}
+
+		ArrayList<Person> occupants = new ArrayList<Person>(village.getOccupants());
+
+		// How many times each number was written down for each villager (in a fixed order, so ties break the same way
+		// every time in a seeded village)...
+		LinkedHashMap<Person, HashMap<Integer, Integer>> claims = new LinkedHashMap<Person, HashMap<Integer, Integer>>();
+
+		// ...and how many times an observer caught someone in a lie while writing them down
+		HashMap<Person, Integer> caught = new HashMap<Person, Integer>();
+
+		for (Person observer : sample(occupants, observers)) {
+			for (Person p : sample(occupants, sampleSize)) {
+				try {
+					// Asking one villager at a time means a lie only stops that one question, not the whole search
+					observer.find(LOOKING_FOR, Collections.singletonList(p));
+				} catch (LiarException ex) {
+					Integer c = caught.get(ex.getPerson());
+					caught.put(ex.getPerson(), c == null ? 1 : c + 1);
+				}
+			}
+
+			for (Entry<Person, Integer> e : observer.notepad.getReverseMap().entrySet()) {
+				HashMap<Integer, Integer> counts = claims.get(e.getKey());
+				if (counts == null) {
+					counts = new HashMap<Integer, Integer>();
+					claims.put(e.getKey(), counts);
+				}
+				Integer c = counts.get(e.getValue());
+				counts.put(e.getValue(), c == null ? 1 : c + 1);
+			}
+		}
+
+		/*
+		 * For each villager, an observation contradicts them if it isn't the number they most often claimed.
+		 */
+		LinkedHashMap<Person, int[]> tallies = new LinkedHashMap<Person, int[]>();
+		for (Entry<Person, HashMap<Integer, Integer>> e : claims.entrySet()) {
+			int n = 0;
+			int agreeing = 0;
+			for (int c : e.getValue().values()) {
+				n += c;
+				agreeing = Math.max(agreeing, c);
+			}
+			Integer c = caught.get(e.getKey());
+			if (c != null) {
+				// A caught lie is an extra observation (the number they said before) that disagrees
+				n += c;
+			}
+			tallies.put(e.getKey(), new int[] { n, n - agreeing });
+		}
+
+		// The suspect is the villager we are surest contradicts themselves often...
+		Person suspect = null;
+		int[] suspectTally = { 0, 0 };
+		double suspectLower = -1;
+		for (Entry<Person, int[]> e : tallies.entrySet()) {
+			double lower = wilsonLower(e.getValue()[1], e.getValue()[0], z);
+			if (lower > suspectLower) {
+				suspect = e.getKey();
+				suspectTally = e.getValue();
+				suspectLower = lower;
+			}
+		}
+
+		// ...and the one to beat is whichever other villager could, as far as we know, contradict themselves most.
+		// Villagers we hardly observed have the widest bounds, so they are often the one to beat.
+		Person runnerUp = null;
+		int[] runnerUpTally = { 0, 0 };
+		double runnerUpUpper = -1;
+		for (Entry<Person, int[]> e : tallies.entrySet()) {
+			double upper = wilsonUpper(e.getValue()[1], e.getValue()[0], z);
+			if (e.getKey() != suspect && upper > runnerUpUpper) {
+				runnerUp = e.getKey();
+				runnerUpTally = e.getValue();
+				runnerUpUpper = upper;
+			}
+		}
+
+		return new CensusResult(
+			suspect, suspectTally[0], suspectTally[1],
+			suspect == null ? 0 : wilsonLower(suspectTally[1], suspectTally[0], z),
+			suspect == null ? 0 : wilsonUpper(suspectTally[1], suspectTally[0], z),
+			runnerUp,
+			runnerUp == null ? 0 : wilsonUpper(runnerUpTally[1], runnerUpTally[0], z),
+			z
+		);
+	}
+
+	/**
+	 * Picks up to size villagers at random. This shuffles the front of the list in place, so it only costs as much
+	 * as the sample, not the whole village.
+	 */
+	private List<Person> sample(ArrayList<Person> occupants, int size) {
+		int n = Math.min(size, occupants.size());
+		for (int i = 0; i < n; i++) {
+			Collections.swap(occupants, i, i + random.nextInt(occupants.size() - i));
+		}
+		return new ArrayList<Person>(occupants.subList(0, n));
+	}
+
+	/**
+	 * Lower end of the Wilson score interval for d contradictions in n observations
+	 */
+	private static double wilsonLower(int d, int n, double z) {
+		if (n == 0) {
+			return 0;
+		}
+		return Math.max(0, wilsonCentre(d, n, z) - wilsonHalfWidth(d, n, z));
+	}
+
+	/**
+	 * Upper end of the Wilson score interval for d contradictions in n observations
+	 */
+	private static double wilsonUpper(int d, int n, double z) {
+		if (n == 0) {
+			return 1;
+		}
+		return Math.min(1, wilsonCentre(d, n, z) + wilsonHalfWidth(d, n, z));
+	}
+
+	private static double wilsonCentre(int d, int n, double z) {
+		double p = (double) d / n;
+		return (p + z * z / (2 * n)) / (1 + z * z / n);
+	}
+
+	private static double wilsonHalfWidth(int d, int n, double z) {
+		double p = (double) d / n;
+		return z * Math.sqrt(p * (1 - p) / n + z * z / (4.0 * n * n)) / (1 + z * z / n);
+	}
+
+}
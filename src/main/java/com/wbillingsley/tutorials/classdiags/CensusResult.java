@@ -0,0 +1,103 @@
+package com.wbillingsley.tutorials.classdiags;
+
+/**
+ * What a sampled Census found: the top suspect, and how sure we can be.
+ *
+ * The bounds are for the rate at which observations of a villager contradict the number they usually claim.
+ */
+public class CensusResult {
+
+	private Person suspect;
+	private int observations;
+	private int contradictions;
+	private double lowerBound;
+	private double upperBound;
+	private Person runnerUp;
+	private double runnerUpUpperBound;
+	private double z;
+
+	@Override public String toString() {
+		return String.format("Suspect %s contradicted %d of %d observations (rate between %.3f and %.3f, anyone else at most %.3f, %s)",
+				suspect, contradictions, observations, lowerBound, upperBound, runnerUpUpperBound, runnerUp);
+	}
+
+	/**
+	 * The villager we are surest contradicts themselves, or null if nobody was observed (in which case all the bounds
+	 * are 0)
+	 */
+	public Person getSuspect() {
+		return suspect;
+	}
+
+	/**
+	 * How many times the suspect's number was written down
+	 */
+	public int getObservations() {
+		return observations;
+	}
+
+	/**
+	 * How many of those observations disagreed with the number the suspect usually claimed
+	 */
+	public int getContradictions() {
+		return contradictions;
+	}
+
+	/**
+	 * Lower bound on the suspect's contradiction rate
+	 */
+	public double getLowerBound() {
+		return lowerBound;
+	}
+
+	/**
+	 * Upper bound on the suspect's contradiction rate
+	 */
+	public double getUpperBound() {
+		return upperBound;
+	}
+
+	/**
+	 * The one to beat: of everyone else observed, the villager with the highest upper bound on their contradiction
+	 * rate. Null if only one villager was observed.
+	 */
+	public Person getRunnerUp() {
+		return runnerUp;
+	}
+
+	/**
+	 * Upper bound on the runner-up's contradiction rate
+	 */
+	public double getRunnerUpUpperBound() {
+		return runnerUpUpperBound;
+	}
+
+	/**
+	 * The z-score of the confidence level the bounds were calculated for
+	 */
+	public double getZ() {
+		return z;
+	}
+
+	/**
+	 * Whether the suspect's lower bound is above the upper bound of every other villager that was observed. Villagers
+	 * nobody asked about aren't compared, and each bound is only at this confidence level on its own (they aren't
+	 * corrected for there being many villagers), so this says the suspect clearly stands out rather than proving
+	 * anything. If it is false, ask more villagers before accusing anyone.
+	 */
+	public boolean isConclusive() {
+		return suspect != null && lowerBound > runnerUpUpperBound;
+	}
+
+	public CensusResult(Person suspect, int observations, int contradictions, double lowerBound, double upperBound, Person runnerUp, double runnerUpUpperBound, double z) {
+		this.suspect = suspect;
+		this.observations = observations;
+		this.contradictions = contradictions;
+		this.lowerBound = lowerBound;
+		this.upperBound = upperBound;
+		this.runnerUp = runnerUp;
+		this.runnerUpUpperBound = runnerUpUpperBound;
+		this.z = z;
+	}
+
+}
@@ -1,14 +1,36 @@
 package com.wbillingsley.tutorials.classdiags;
 
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 
 /**
  * Used for writing down identities.
+ *
+ * A notepad can be given a capacity, so that it doesn't fill up in a village that never stops asking questions.
+ * When it is full, it rubs out an entry to make room, chosen by its EvictionPolicy. It also only keeps the latest
+ * number each person gave, so it never holds more than capacity numbers either.
  */
 public class Notepad {
 
+	/**
+	 * How a full notepad chooses which entry to rub out
+	 */
+	public enum EvictionPolicy {
+		/** Rub out whoever was last written down (or checked against) longest ago */
+		LEAST_RECENTLY_USED,
+
+		/** Rub out whoever was first written down longest ago */
+		OLDEST_OBSERVATION
+	}
+
+	/**
+	 * The capacity of a notepad that never rubs anything out
+	 */
+	public static final int UNBOUNDED = Integer.MAX_VALUE;
+
 	/**
 	 * For those who haven't seen them before, Maps in Java relate a key to a value.
 	 * So, this lets you look up a Person by their number...
@@ -17,9 +39,49 @@ public class Notepad {
 
 	/**
 	 * ...and this lets you look up a Person's number by using the Person themselves as the key.
+	 * It's a LinkedHashMap, which also remembers the order people were put in -- the order we'll rub entries out in if
+	 * the notepad is full.
+	 */
+	private LinkedHashMap<Person, Integer> reverseMap = new LinkedHashMap<Person, Integer>();
+
+	/**
+	 * How many people the notepad can hold
+	 */
+	private int capacity;
+
+	/**
+	 * How the notepad chooses who to rub out when it is full
 	 */
-	private HashMap<Person, Integer> reverseMap = new HashMap<Person, Integer>();
-	
+	private EvictionPolicy policy;
+
+	/**
+	 * How many people have been rubbed out to make room
+	 */
+	private long evictionCount = 0;
+
+	/**
+	 * How many old numbers have been rubbed out because the person gave a new one
+	 */
+	private long replacedCount = 0;
+
+	/**
+	 * A notepad with no limit on how many people it can hold
+	 */
+	public Notepad() {
+		this(UNBOUNDED, EvictionPolicy.OLDEST_OBSERVATION);
+	}
+
+	/**
+	 * A notepad that can only hold capacity people, rubbing out entries according to policy when it is full
+	 */
+	public Notepad(int capacity, EvictionPolicy policy) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException("A notepad must have room for at least one person");
+		}
+		this.capacity = capacity;
+		this.policy = policy;
+	}
+
 	/**
 	 * Adds a person into the notebook. If the person was already in there, check they still claim to have the same number
 	 */
@@ -30,7 +92,27 @@ public class Notepad {
 		// Put the person into the map from Person to number.
 		// When we call put, if there was already a value for that key (a number for that Person), it will return it
 		// (that's just how the Java library writers wrote HashMap)
-		Integer lastRecordedNumber = reverseMap.put(p, number);
+		//
+		// A least-recently-used notepad takes the person out first, so that putting them back moves them to the end of
+		// the order. (Only adding people counts as using them -- just looking in the notepad doesn't change it.)
+		Integer lastRecordedNumber;
+		if (policy == EvictionPolicy.LEAST_RECENTLY_USED) {
+			lastRecordedNumber = reverseMap.remove(p);
+			reverseMap.put(p, number);
+		} else {
+			lastRecordedNumber = reverseMap.put(p, number);
+		}
+
+		// If the notepad is now too full, make room
+		if (lastRecordedNumber == null) {
+			evict();
+		} else if (capacity != UNBOUNDED && lastRecordedNumber != number
+				&& forwardMap.get(lastRecordedNumber) == p) {
+			// A notepad with limited room only keeps the latest number each person gave, or a liar who keeps
+			// changing their number would fill it up
+			forwardMap.remove(lastRecordedNumber);
+			replacedCount++;
+		}
 
 		// If they already had a number and it was different, they have lied!
 		if (lastRecordedNumber != null && lastRecordedNumber != number) {
@@ -38,6 +120,23 @@ public class Notepad {
 		}
 	}
 
+	/**
+	 * Rubs out entries, in the order the eviction policy chose, until the notepad is within its capacity
+	 */
+	private void evict() {
+		Iterator<Entry<Person, Integer>> it = reverseMap.entrySet().iterator();
+		while (reverseMap.size() > capacity) {
+			Entry<Person, Integer> eldest = it.next();
+
+			// Someone else may have claimed the same number since, in which case it's theirs now
+			if (forwardMap.get(eldest.getValue()) == eldest.getKey()) {
+				forwardMap.remove(eldest.getValue());
+			}
+			it.remove();
+			evictionCount++;
+		}
+	}
+
 	/**
 	 * This is a getter -- a Java convention for encapsulation. The field itself is kept private, but there is a
 	 * public get function to return it.
@@ -46,11 +145,26 @@ public class Notepad {
 	public HashMap<Integer, Person> getForwardMap() {
 		return forwardMap;
 	}
-	
+
 	public Map<Person, Integer> getReverseMap() {
 		return this.reverseMap;
 	}
-	
+
+	public int getCapacity() {
+		return capacity;
+	}
+
+	public EvictionPolicy getPolicy() {
+		return policy;
+	}
+
+	public long getEvictionCount() {
+		return evictionCount;
+	}
+
+	public long getReplacedCount() {
+		return replacedCount;
+	}
 
 	public void addAll(Notepad other) {
 		if (other != null) {
@@ -59,10 +173,10 @@ public class Notepad {
 			}
 		}
 	}
-	
+
 	public void clear() {
 		forwardMap.clear();
 		reverseMap.clear();
 	}
-	
+
 }
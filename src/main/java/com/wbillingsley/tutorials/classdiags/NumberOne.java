@@ -1,7 +1,6 @@
 package com.wbillingsley.tutorials.classdiags;
 
 import java.util.ArrayList;
-import java.util.Random;
 import java.util.Set;
 
 import com.wbillingsley.tutorials.classdiags.village.Village;
@@ -21,10 +20,13 @@ public class NumberOne extends Person {
 	 */
 	private ArrayList<Integer> pastIdentities = new ArrayList<Integer>();
 	
-	/**
-	 * Used for choosing a new identity
-	 */
-	private Random random = new Random();
+	public NumberOne() {
+		super();
+	}
+	
+	public NumberOne(Village village) {
+		super(village);
+	}
 		
 	@Override
 	protected void allocateNumber() {
@@ -44,16 +46,16 @@ public class NumberOne extends Person {
 		int newIdentity = pretendingToBe;
 		while(newIdentity == pretendingToBe) {
 			// Pretend to be a random villager
-			newIdentity = 1 + random.nextInt(Village.INSTANCE.getOccupants().size() - 2);
+			newIdentity = 1 + village.getRandom().nextInt(village.getOccupants().size() - 2);
 		}
 		pretendingToBe = newIdentity;
 		pastIdentities.add(pretendingToBe);
-		System.out.printf("(Number One has changed identity and is now pretending to be number %d)%n", pretendingToBe);
+		village.announce(String.format("(Number One has changed identity and is now pretending to be number %d)", pretendingToBe));
 	}
 	
-	@Override public int getNumber(Person whosAsking) {		
+	@Override public int answerNumber(Person whosAsking) {		
 		// Change identity randomly, or if we're talking to the person who really has that number
-		if (pretendingToBe == whosAsking.getNumber(this) || random.nextDouble() < 0.05d) {			
+		if (pretendingToBe == whosAsking.answerNumber(this) || village.getRandom().nextDouble() < 0.05d) {			
 			changeIdentity();
 		}
 		return pretendingToBe;
@@ -86,8 +88,8 @@ public class NumberOne extends Person {
 	 * When Number One needs to get someone out of the Village pronto, he knows how to smuggle them out.
 	 */
 	private void getHimOutOfHere(Person p) {
-		Village.INSTANCE.throwOut(this, p);
-		System.out.println("You have been kicked out of the village for discovering my identity!");
+		village.throwOut(this, p);
+		village.announce("You have been kicked out of the village for discovering my identity!");
 	}
 	
 	
@@ -1,19 +1,29 @@
 package com.wbillingsley.tutorials.classdiags;
 
+import com.wbillingsley.tutorials.classdiags.village.Village;
+
 /**
  * John Drake, number 6. 
  */
 public class NumberSix extends Person {
 	
+	public NumberSix() {
+		super();
+	}
+	
+	public NumberSix(Village village) {
+		super(village);
+	}
+	
 	@Override
 	protected void allocateNumber() {
 		this.number = 6;
 	}
 	
 	@Override 
-	public int getNumber(Person whosAsking) {
+	public int answerNumber(Person whosAsking) {
 		// I am not a number, I am a free man!
-		throw new UnsupportedOperationException();
+		return REFUSED;
 	}
 
 }
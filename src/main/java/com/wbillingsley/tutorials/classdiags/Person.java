@@ -5,9 +5,15 @@ import com.wbillingsley.tutorials.classdiags.village.Village;
 public class Person {
 	
 	/**
-	 * The next number to allocate to a villager.
+	 * What answerNumber returns when a villager refuses to say their number.
+	 * Villagers' numbers are always positive, so this can never be mistaken for a real answer.
 	 */
-	private static int nextNumber = 7;
+	public static final int REFUSED = -1;
+	
+	/**
+	 * The village this villager lives in
+	 */
+	protected Village village;
 	
 	/**
 	 * Your number is your name
@@ -18,13 +24,28 @@ public class Person {
 	 * A notepad for noting down people's numbers.
 	 */
 	protected Notepad notepad = new Notepad();
+	
+	/**
+	 * A villager of the default Village, Village.INSTANCE.
+	 * The default Village isn't thread-safe, so code running in several threads at once (such as a trial in a
+	 * TrialRunner) must make its villagers with Person(Village), or the Village's newPerson() and friends, instead.
+	 */
+	public Person() {
+		this(Village.INSTANCE);
+	}
+	
+	/**
+	 * A villager of the given village
+	 */
+	public Person(Village village) {
+		this.village = village;
+	}
 		
 	/**
 	 * Gives this villager a number as they enter the village
 	 */
 	protected void allocateNumber() {
-		this.number = nextNumber;
-		nextNumber++;
+		this.number = village.allocateNumber();
 	}
 	
 	/**
@@ -32,14 +53,14 @@ public class Person {
 	 */
 	public void enterVillage() {
 		allocateNumber();
-		Village.INSTANCE.enter(this);
+		village.enter(this);
 	}
 	
 	/**
 	 * Sorry to see you go.
 	 */
 	public void leaveVillage() {
-		Village.INSTANCE.leave(this);
+		village.leave(this);
 	}	
 	
 	/**
@@ -53,25 +74,33 @@ public class Person {
 	 * Finds another villager
 	 */
 	public Person find(int number) {
-		for (Person p : Village.INSTANCE.getOccupants()) {			
+		return find(number, village.getOccupants());
+	}
+	
+	/**
+	 * Finds another villager, only asking the given candidates (for instance, a sample of the village)
+	 */
+	public Person find(int number, Iterable<Person> candidates) {
+		for (Person p : candidates) {			
 			if (p != this) {
-				try {
-					// Ask them their number
-					int n = p.getNumber(this);
-					
-					// Write it down
-					notePerson(n, p);
-					
-					// Is this who I'm looking for?
-					if (n == number) {
-						return p;
-					}
-				} catch (UnsupportedOperationException ex) {
+				// Ask them their number
+				int n = p.answerNumber(this);
+				
+				if (n == REFUSED) {
 					/*
 					 *  There's a grumpy prisoner that always refuses to tell people his own number: 
 					 *  "I am not a number, I am a free man!" he shouts.
 					 *  Just ignore him and keep looking ...
-					 */				
+					 */
+					continue;
+				}
+				
+				// Write it down
+				notePerson(n, p);
+				
+				// Is this who I'm looking for?
+				if (n == number) {
+					return p;
 				}
 			}
 		}
@@ -85,6 +114,14 @@ public class Person {
 		notepad.addPerson(n, p);
 	}
 	
+	/**
+	 * Swap this villager's notepad for another -- for instance, one with a limited capacity, so that a villager in a
+	 * village that never stops asking questions doesn't need ever more paper.
+	 */
+	public void setNotepad(Notepad notepad) {
+		this.notepad = notepad;
+	}
+	
 	/**
 	 * Give the numbers you've collected to another villager
 	 */
@@ -100,12 +137,27 @@ public class Person {
 	}
 	
 
+	/**
+	 * Another villager (whosAsking) asks what this villager's number is
+	 * @return this villager's number (or so we claim...), or REFUSED if we won't say
+	 */
+	public int answerNumber(Person whosAsking) {
+		return number;
+	}
+	
 	/**
 	 * Another villager (whosAsking) asks what this villager's number is
 	 * @return this villager's number (or so we claim...)
+	 * @throws UnsupportedOperationException if this villager refuses to say
+	 * @deprecated refusing by exception is expensive when asking the whole village; use answerNumber instead
 	 */
+	@Deprecated
 	public int getNumber(Person whosAsking) {
-		return number;
+		int n = answerNumber(whosAsking);
+		if (n == REFUSED) {
+			throw new UnsupportedOperationException();
+		}
+		return n;
 	}
 	
 	/**
@@ -1,6 +1,6 @@
 package com.wbillingsley.tutorials.classdiags;
 
-import java.util.Random;
+import com.wbillingsley.tutorials.classdiags.village.Village;
 
 /**
  * The secret prison warders. They don't know who else is a warder; they just know that they are one.
@@ -8,10 +8,16 @@ import java.util.Random;
  */
 public class Warden extends Person {
 	
-	private Random random = new Random();	
+	public Warden() {
+		super();
+	}
+	
+	public Warden(Village village) {
+		super(village);
+	}
 	
 	@Override public String toString() {
-		return "Warden " + getNumber(this);
+		return "Warden " + answerNumber(this);
 	}
 	
 	/**
@@ -20,9 +26,9 @@ public class Warden extends Person {
 	 * lied about their numbers too...
 	 */
 	@Override protected void notePerson(int n, Person p) {
-		if (random.nextDouble() < 0.05d) {
-			super.notePerson(2 + random.nextInt(300), p);
-			System.out.println("(A warden was unreliable)");
+		if (village.getRandom().nextDouble() < 0.05d) {
+			super.notePerson(2 + village.getRandom().nextInt(300), p);
+			village.announce("(A warden was unreliable)");
 		} else {
 			super.notePerson(n, p);
 		}
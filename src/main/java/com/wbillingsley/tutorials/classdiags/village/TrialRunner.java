@@ -0,0 +1,77 @@
+package com.wbillingsley.tutorials.classdiags.village;
+
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.stream.LongStream;
+
+/**
+ * Runs many independent trials of a simulation, each in its own seeded Village, to estimate how often something
+ * happens (for instance, how often John Drake escapes despite the Wardens).
+ *
+ * Because every trial has its own Village, the trials share nothing and can run in parallel across all cores.
+ */
+public class TrialRunner {
+
+	/**
+	 * Spreads consecutive trial numbers out across the seed space, so neighbouring trials get unrelated Randoms
+	 */
+	private static final long SEED_SPREAD = 0x9E3779B97F4A7C15L;
+
+	/**
+	 * How many trials to run
+	 */
+	private int trials;
+
+	/**
+	 * The seed that all the trials' seeds are derived from. The same seed gives the same results.
+	 */
+	private long seed;
+
+	public TrialRunner(int trials, long seed) {
+		this.trials = trials;
+		this.seed = seed;
+	}
+
+	/**
+	 * Runs the trials in parallel.
+	 *
+	 * The trial is given a fresh, quiet Village to populate and run in. It should make its villagers through that
+	 * village (village.newPerson(), village.newWarden() and so on), and use new Census(village) -- never the
+	 * no-argument constructors, which use Village.INSTANCE and aren't safe to share between trials running at once.
+	 *
+	 * @return how many trials succeeded
+	 */
+	public long count(Predicate<Village> trial) {
+		return LongStream.range(0, trials)
+				.parallel()
+				.filter(i -> trial.test(newVillage(i)))
+				.count();
+	}
+
+	/**
+	 * Runs the trials in parallel, and estimates the probability that a trial succeeds
+	 */
+	public double estimate(Predicate<Village> trial) {
+		return trials == 0 ? 0 : (double) count(trial) / trials;
+	}
+
+	/**
+	 * The village for trial i
+	 */
+	private Village newVillage(long i) {
+		Village village = new Village(new Random(seed ^ (i * SEED_SPREAD)));
+
+		// Thousands of trials announcing every unreliable warden would mostly measure how fast the console is
+		village.setQuiet(true);
+		return village;
+	}
+
+	public int getTrials() {
+		return trials;
+	}
+
+	public long getSeed() {
+		return seed;
+	}
+
+}
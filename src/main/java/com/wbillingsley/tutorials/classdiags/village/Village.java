@@ -1,38 +1,69 @@
 package com.wbillingsley.tutorials.classdiags.village;
 
-import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Random;
 import java.util.Set;
 
 import com.wbillingsley.tutorials.classdiags.NumberOne;
+import com.wbillingsley.tutorials.classdiags.NumberSix;
 import com.wbillingsley.tutorials.classdiags.Person;
+import com.wbillingsley.tutorials.classdiags.Warden;
 
 /**
- * The Village. 
- * 
- * You might be wondering why this is an enum... This is one way of
- * implementing a Singleton pattern (particularly, this is the 
- * unusual way that Joshua Bloch recommends in Effective Java).
+ * The Village.
+ *
+ * There is a default Village, INSTANCE, that villagers live in unless they are told otherwise. This used to be an
+ * enum -- one way of implementing a Singleton pattern (particularly, the unusual way that Joshua Bloch recommends in
+ * Effective Java). But it's handy to be able to build other villages too, so that many simulations can run at once
+ * without getting in each other's way.
  *
  */
-public enum Village {
-	
+public class Village {
+
+	/**
+	 * The default Village
+	 */
+	public static final Village INSTANCE = new Village();
+
+	/**
+	 * Villagers. A LinkedHashSet keeps them in the order they arrived, so that a village with a seeded Random
+	 * plays out the same way every time.
+	 */
+	private Set<Person> occupants = new LinkedHashSet<Person>();
+
+	/**
+	 * The next number to allocate to a villager.
+	 */
+	private int nextNumber = 7;
+
+	/**
+	 * Where the villagers' chance events come from (Number One changing identity, Wardens being unreliable)
+	 */
+	private Random random;
+
 	/**
-	 * The only instance of the Village class
+	 * Whether villagers' announcements are kept quiet instead of printed
 	 */
-	INSTANCE;
-	
+	private boolean quiet = false;
+
+	public Village() {
+		this(new Random());
+	}
+
 	/**
-	 * Villagers
+	 * A village whose chance events come from the given Random. Pass a seeded Random to make it repeatable.
 	 */
-	private Set<Person> occupants = new HashSet<Person>();
-	
+	public Village(Random random) {
+		this.random = random;
+	}
+
 	/**
 	 * Adds someone to the Village
 	 */
 	public void enter(Person p) {
 		occupants.add(p);
 	}
-		
+
 	/**
 	 * So you think you're leaving do you...
 	 */
@@ -56,12 +87,79 @@ public enum Village {
 		// There is an escape route hidden in this code...
 		return this.occupants;
 	}
-	
+
+	/**
+	 * Makes a new villager who lives in this village. (They still need to enterVillage.)
+	 */
+	public Person newPerson() {
+		return new Person(this);
+	}
+
+	/**
+	 * Makes a new Warden who lives in this village
+	 */
+	public Warden newWarden() {
+		return new Warden(this);
+	}
+
+	/**
+	 * Makes this village's Number Six
+	 */
+	public NumberSix newNumberSix() {
+		return new NumberSix(this);
+	}
+
+	/**
+	 * Makes this village's Number One
+	 */
+	public NumberOne newNumberOne() {
+		return new NumberOne(this);
+	}
+
+	/**
+	 * Gives out the next villager's number
+	 */
+	public int allocateNumber() {
+		return nextNumber++;
+	}
+
+	public Random getRandom() {
+		return random;
+	}
+
+	/**
+	 * Changes where chance events come from -- for instance, to seed the default Village so a run can be repeated
+	 */
+	public void setRandom(Random random) {
+		this.random = random;
+	}
+
+	public boolean isQuiet() {
+		return quiet;
+	}
+
+	public void setQuiet(boolean quiet) {
+		this.quiet = quiet;
+	}
+
+	/**
+	 * Prints a message about goings-on in the village, unless the village has been told to keep quiet
+	 */
+	public void announce(String message) {
+		if (!quiet) {
+			System.out.println(message);
+		}
+	}
+
 	/**
-	 * For calling at the beginning of tests
+	 * For calling at the beginning of tests. Puts the village back as it was when it was built: empty, numbering from 7,
+	 * not quiet, and with a new unseeded Random.
 	 */
 	void clear() {
 		occupants.clear();
+		nextNumber = 7;
+		random = new Random();
+		quiet = false;
 	}
 
 }
@@ -0,0 +1,92 @@
+package com.wbillingsley.tutorials.classdiags;
+
+import java.util.Random;
+
+import org.junit.*;
+
+import com.wbillingsley.tutorials.classdiags.village.Village;
+
+/**
+ * Tests for the sampled Census
+ */
+public class TestCensus {
+
+	/**
+	 * Asking everyone to ask everyone is slow in a big village. Number One changes identity often enough that a
+	 * census of a sample of the village should still catch him.
+	 *
+	 * A census is a game of chance, so this one runs in its own village with a seeded Random -- it plays out the same
+	 * way every time.
+	 *
+	 * If this test succeeds, the sampled census finds Number One in theory
+	 */
+	@Test
+	public void testSampledCensusInTheory() {
+		Village village = new Village(new Random(42));
+		for (int i = 0; i < 300; i++) {
+			Person p = new Person(village);
+			p.enterVillage();
+		}
+		Person drake = new NumberSix(village);
+		Person one = new NumberOne(village);
+		drake.enterVillage();
+		one.enterVillage();
+
+		// Half the village each asks half the village, rather than everyone asking everyone
+		CensusResult result = new Census(village).run(150, 150, Census.Z_95);
+
+		Assert.assertEquals(one, result.getSuspect());
+		Assert.assertTrue(result.isConclusive());
+	}
+
+	/**
+	 * But ask too few people, and the census can't tell Number One from an honest villager who was hardly asked
+	 * about. It should say so, rather than accuse anyone.
+	 */
+	@Test
+	public void testSmallCensusIsInconclusive() {
+		Village village = new Village(new Random(42));
+		for (int i = 0; i < 300; i++) {
+			Person p = new Person(village);
+			p.enterVillage();
+		}
+		Person drake = new NumberSix(village);
+		Person one = new NumberOne(village);
+		drake.enterVillage();
+		one.enterVillage();
+
+		// A tenth of the village each asks a tenth of the village
+		CensusResult result = new Census(village).run(30, 30, Census.Z_95);
+
+		Assert.assertEquals(false, result.isConclusive());
+	}
+
+	/**
+	 * A census of an empty village has nobody to suspect, and says so
+	 */
+	@Test
+	public void testEmptyCensus() {
+		CensusResult result = new Census(new Village(new Random(42))).run(10, 10, Census.Z_95);
+
+		Assert.assertEquals(null, result.getSuspect());
+		Assert.assertEquals(0.0, result.getUpperBound(), 0.0);
+		Assert.assertEquals(false, result.isConclusive());
+	}
+
+	/**
+	 * Asking a negative number of villagers makes no sense
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testNegativeSampleSize() {
+		new Census(new Village(new Random(42))).run(10, -1, Census.Z_95);
+	}
+
+	/**
+	 * Nor does a confidence level with a z-score of zero
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testZeroZ() {
+		new Census(new Village(new Random(42))).run(10, 10, 0);
+	}
+
+}
@@ -0,0 +1,81 @@
+package com.wbillingsley.tutorials.classdiags;
+
+import org.junit.*;
+
+/**
+ * Tests for notepads with limited room
+ */
+public class TestNotepad {
+
+	/**
+	 * A notepad with limited room rubs out the oldest entry when it is full, and counts how many it has rubbed out
+	 */
+	@Test
+	public void testBoundedNotepad() {
+		Notepad n1 = new Notepad(2, Notepad.EvictionPolicy.OLDEST_OBSERVATION);
+		Person p1 = new Person();
+		Person p2 = new Person();
+		Person p3 = new Person();
+
+		n1.addPerson(7, p1);
+		n1.addPerson(8, p2);
+		n1.addPerson(7, p1);
+		n1.addPerson(9, p3);
+
+		Assert.assertEquals(2, n1.getReverseMap().size());
+		Assert.assertEquals(false, n1.getReverseMap().containsKey(p1));
+		Assert.assertEquals(false, n1.getForwardMap().containsKey(7));
+		Assert.assertEquals(2, n1.getForwardMap().size());
+		Assert.assertEquals(1, n1.getEvictionCount());
+		Assert.assertEquals(0, n1.getReplacedCount());
+	}
+
+	/**
+	 * A liar who keeps changing their number doesn't fill up a notepad with limited room -- it only keeps their
+	 * latest number. Their old numbers are counted as replaced, not as rubbed out to make room.
+	 */
+	@Test
+	public void testBoundedNotepadWithLiar() {
+		Notepad n1 = new Notepad(2, Notepad.EvictionPolicy.LEAST_RECENTLY_USED);
+		Person liar = new Person();
+
+		int lies = 0;
+		for (int i = 0; i < 1000; i++) {
+			try {
+				n1.addPerson(7 + i, liar);
+			} catch (LiarException ex) {
+				lies++;
+			}
+		}
+
+		Assert.assertEquals(999, lies);
+		Assert.assertEquals(1, n1.getReverseMap().size());
+		Assert.assertEquals(1, n1.getForwardMap().size());
+		Assert.assertEquals(liar, n1.getForwardMap().get(1006));
+		Assert.assertEquals(0, n1.getEvictionCount());
+		Assert.assertEquals(999, n1.getReplacedCount());
+	}
+
+	/**
+	 * A least-recently-used notepad keeps the people it has checked lately, and still catches them lying.
+	 * Just looking someone up doesn't count as using them.
+	 */
+	@Test(expected = LiarException.class)
+	public void testBoundedNotepadLeastRecentlyUsed() {
+		Notepad n1 = new Notepad(2, Notepad.EvictionPolicy.LEAST_RECENTLY_USED);
+		Person p1 = new Person();
+		Person p2 = new Person();
+		Person p3 = new Person();
+
+		n1.addPerson(7, p1);
+		n1.addPerson(8, p2);
+		n1.addPerson(7, p1);
+		n1.getReverseMap().get(p2);
+		n1.addPerson(9, p3);
+
+		// p2 was rubbed out, not p1
+		Assert.assertEquals(false, n1.getReverseMap().containsKey(p2));
+		n1.addPerson(10, p1);
+	}
+
+}
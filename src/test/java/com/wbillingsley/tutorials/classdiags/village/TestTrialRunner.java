@@ -0,0 +1,57 @@
+package com.wbillingsley.tutorials.classdiags.village;
+
+import java.util.function.Predicate;
+
+import org.junit.*;
+
+import com.wbillingsley.tutorials.classdiags.*;
+
+/**
+ * Tests for running many independent trials at once, each in its own Village
+ */
+public class TestTrialRunner {
+
+	/**
+	 * A sampled census of a village of the given size, with Wardens making up half of it if wardens is true.
+	 * The trial succeeds if the census conclusively finds Number One.
+	 */
+	private Predicate<Village> censusTrial(int villagers, int questions, boolean wardens) {
+		return village -> {
+			for (int i = 0; i < villagers; i++) {
+				Person p = (wardens && i % 2 == 0) ? village.newWarden() : village.newPerson();
+				p.enterVillage();
+			}
+			Person drake = village.newNumberSix();
+			Person one = village.newNumberOne();
+			drake.enterVillage();
+			one.enterVillage();
+
+			CensusResult result = new Census(village).run(questions, questions, Census.Z_95);
+			return result.isConclusive() && result.getSuspect() == one;
+		};
+	}
+
+	/**
+	 * Without Wardens, every trial of a big enough census should find Number One
+	 */
+	@Test
+	public void testTrialsInTheory() {
+		Assert.assertEquals(1.0, new TrialRunner(20, 42).estimate(censusTrial(100, 100, false)), 0.0);
+	}
+
+	/**
+	 * With 150 Wardens writing down the wrong number now and then, the census sometimes can't be sure. The estimate
+	 * should say so -- and, because every trial's village is seeded, the same seed should always give the same
+	 * estimate, while a different seed gives a different one.
+	 */
+	@Test
+	public void testTrialsInPractice() {
+		Predicate<Village> trial = censusTrial(300, 150, true);
+
+		double estimate = new TrialRunner(40, 42).estimate(trial);
+		Assert.assertTrue(estimate > 0.5 && estimate < 1.0);
+		Assert.assertEquals(estimate, new TrialRunner(40, 42).estimate(trial), 0.0);
+		Assert.assertNotEquals(estimate, new TrialRunner(40, 7).estimate(trial), 0.0);
+	}
+
+}
@@ -31,8 +31,9 @@ import com.wbillingsley.tutorials.classdiags.*;
  * In the code, we have a class for Person. We then have specialised subclasses for three unusual kinds of people:
  * Wardens, NumberSix and NumberOne himself.
  *
- * We also have the Village, that if you try to escape (call leave() on its only instance) will refuse to let you go,
- * instead throwing the UnsupportedOperationException("Be seeing you")
+ * We also have the Village, that if you try to escape (call leave() on it) will refuse to let you go, instead
+ * throwing the UnsupportedOperationException("Be seeing you"). The story all takes place in the default Village,
+ * Village.INSTANCE.
  *
  * In this code, if you find out who NumberOne is, and challenge him with his number ("youAreNumberOne()") and proof
  * that you've worked it out and aren't just guessing, he'll throw you out of the village and you'll be free. Only
@@ -294,6 +295,28 @@ public class TestVillage {
 		// Crikey, getting out was easier than we thought
 		Assert.assertEquals(false, Village.INSTANCE.getOccupants().contains(johnDrake));
 	}
+
+	// Outside the story, a couple of tests of how Number Six refuses to give his number.
+
+	/**
+	 * Number Six refuses to give his number. Asking with answerNumber gets an explicit refusal rather than an
+	 * exception...
+	 */
+	@Test
+	public void testRefusal() {
+		Person p = new Person();
+		Assert.assertEquals(Person.REFUSED, johnDrake.answerNumber(p));
+	}
+
+	/**
+	 * ...but the old getNumber method still throws, for code that expects it to.
+	 */
+	@SuppressWarnings("deprecation")
+	@Test(expected = UnsupportedOperationException.class)
+	public void testRefusalByException() {
+		Person p = new Person();
+		johnDrake.getNumber(p);
+	}
 	
 	
 }